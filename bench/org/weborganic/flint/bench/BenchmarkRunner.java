@@ -0,0 +1,58 @@
+package org.weborganic.flint.bench;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks in this package.
+ *
+ * <p>The benchmarks need the jars of the <code>bench</code> Ivy configuration, which includes
+ * the JMH annotation processor. From the root of the module:
+ *
+ * <pre>
+ * java -jar ivy.jar -properties ivy.properties -ivy ivy.xml -confs bench \
+ *   -retrieve "lib/bench/[artifact]-[revision].[ext]"
+ *
+ * mkdir -p build/bench
+ * javac -cp "lib/bench/*" -d build/bench \
+ *   -processor org.openjdk.jmh.generators.BenchmarkProcessor \
+ *   bench/org/weborganic/flint/bench/*.java
+ *
+ * java -cp "build/bench:lib/bench/*" org.weborganic.flint.bench.BenchmarkRunner [regexp]
+ * </pre>
+ *
+ * <p>The <code>ivy.properties</code> file points the local and shared resolvers to the
+ * repositories providing <code>wo-flint</code> and the other Weborganic modules; JMH is resolved
+ * from Maven Central by the public resolver of the default Ivy settings.
+ *
+ * <p>The annotation processor generates the JMH harness classes and the
+ * <code>META-INF/BenchmarkList</code> read by the runner into <code>build/bench</code>.
+ * Run from the root of the module so that <code>xslt/xmlToIdx.xsl</code> resolves.
+ *
+ * @author agent
+ * @version 17 October 2026
+ */
+public final class BenchmarkRunner {
+
+  /**
+   * Utility class.
+   */
+  private BenchmarkRunner() {
+  }
+
+  /**
+   * Runs the benchmarks matching the specified pattern, or all the benchmarks in this package.
+   *
+   * @param args An optional regular expression to select the benchmarks to run.
+   *
+   * @throws RunnerException If the benchmarks could not be run.
+   */
+  public static void main(String[] args) throws RunnerException {
+    String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackage().getName() + ".*";
+    Options options = new OptionsBuilder().include(include).build();
+    new Runner(options).run();
+  }
+
+}
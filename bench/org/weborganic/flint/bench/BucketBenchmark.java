@@ -0,0 +1,78 @@
+package org.weborganic.flint.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.weborganic.flint.util.Bucket;
+
+/**
+ * Measures the cost of filling a {@link Bucket} as done when counting terms for facets.
+ *
+ * <p>Each distinct term is added once with its total count, counts follow a skewed distribution.
+ *
+ * @author agent
+ * @version 17 October 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BucketBenchmark {
+
+  /**
+   * The size of the bucket, as for the top terms of a facet.
+   */
+  private static final int CAPACITY = 10;
+
+  /**
+   * The number of distinct terms added to the bucket.
+   */
+  @Param({"100", "10000", "100000"})
+  public int terms;
+
+  private String[] keys;
+
+  private int[] counts;
+
+  @Setup
+  public void setup() {
+    this.keys = new String[this.terms];
+    this.counts = new int[this.terms];
+    for (int i = 0; i < this.terms; i++) {
+      this.keys[i] = "term" + i;
+      // Term frequencies roughly follow Zipf's law
+      this.counts[i] = Math.max(1, 100000 / (i + 1));
+    }
+    // Terms are counted in term order, not frequency order: use a fixed seed so that all runs match
+    Random random = new Random(42);
+    for (int i = this.terms - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int count = this.counts[i];
+      this.counts[i] = this.counts[j];
+      this.counts[j] = count;
+    }
+  }
+
+  @Benchmark
+  public Bucket<String> add() {
+    Bucket<String> bucket = new Bucket<String>(CAPACITY);
+    for (int i = 0; i < this.terms; i++) {
+      bucket.add(this.keys[i], this.counts[i]);
+    }
+    return bucket;
+  }
+
+}
@@ -0,0 +1,205 @@
+package org.weborganic.flint.bench;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Collections;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.Version;
+import org.weborganic.flint.Index;
+import org.weborganic.flint.IndexIO;
+import org.weborganic.flint.content.DeleteRule;
+
+/**
+ * Generates a synthetic corpus for the benchmarks.
+ *
+ * <p>Source documents use the same <code>&lt;doc&gt;</code> shape as the content in
+ * <code>IndexManagerTest</code>, and Index documents use the fields produced by
+ * <code>xslt/xmlToIdx.xsl</code> so that every stage of the pipeline sees realistic input.
+ *
+ * <p>The size of a document is controlled by its number of paragraphs.
+ *
+ * <p>Also provides the helpers used by the benchmarks to create and fill their indexes.
+ *
+ * @author agent
+ * @version 17 October 2026
+ */
+public final class Corpus {
+
+  /**
+   * The stylesheet used by the indexing tests.
+   */
+  public static final File XSLT = new File("xslt/xmlToIdx.xsl");
+
+  /**
+   * Utility class.
+   */
+  private Corpus() {
+  }
+
+  /**
+   * Returns the source XML for the specified content.
+   *
+   * @param id         The ID of the content.
+   * @param paragraphs The number of paragraphs in the content.
+   * @return the corresponding <code>&lt;doc&gt;</code> XML.
+   */
+  public static String toSource(int id, int paragraphs) {
+    StringBuilder xml = new StringBuilder();
+    xml.append("<doc>");
+    xml.append("<docid>").append(id).append("</docid>");
+    xml.append("<title>document ").append(id).append("</title>");
+    xml.append("<sort>").append(id).append("</sort>");
+    xml.append("<author>author").append(id).append("</author>");
+    for (int i = 0; i < paragraphs; i++) {
+      xml.append("<para>").append(toParagraph(id, i)).append("</para>");
+    }
+    xml.append("<data>data").append(id).append("</data>");
+    xml.append("</doc>");
+    return xml.toString();
+  }
+
+  /**
+   * Returns the Index XML for the specified range of content.
+   *
+   * @param from       The ID of the first content.
+   * @param count      The number of documents to generate.
+   * @param paragraphs The number of paragraphs in each document.
+   * @return the corresponding Flint Index Documents 2.0.
+   */
+  public static String toIndexXML(int from, int count, int paragraphs) {
+    StringBuilder xml = new StringBuilder();
+    xml.append("<?xml version='1.0' encoding='utf-8'?>\n");
+    xml.append("<!DOCTYPE documents PUBLIC \"-//Weborganic//DTD::Flint Index Documents 2.0//EN\"");
+    xml.append(" \"http://weborganic.org/schema/flint/index-documents-2.0.dtd\">\n");
+    xml.append("<documents version=\"2.0\">\n");
+    for (int id = from; id < from + count; id++) {
+      xml.append("<document>\n");
+      field(xml, "not-analyzed", "docid", Integer.toString(id));
+      field(xml, "analyzed", "type", "xml");
+      field(xml, "analyzed", "sort", Integer.toString(id));
+      field(xml, "analyzed", "title", "document " + id);
+      field(xml, "analyzed", "author", "author" + id);
+      field(xml, "analyzed", "data", "data" + id);
+      field(xml, "analyzed-no-norms", "content", toContent(id, paragraphs));
+      xml.append("</document>\n");
+    }
+    xml.append("</documents>\n");
+    return xml.toString();
+  }
+
+  /**
+   * Writes the Index XML for the specified range of content to a temporary file.
+   *
+   * <p>The file is deleted when the JVM exits.
+   *
+   * @param from       The ID of the first content.
+   * @param count      The number of documents to generate.
+   * @param paragraphs The number of paragraphs in each document.
+   * @return the file that was written.
+   *
+   * @throws IOException If the file could not be written.
+   */
+  public static File toIndexFile(int from, int count, int paragraphs) throws IOException {
+    File f = File.createTempFile("flint-bench-", ".xml");
+    f.deleteOnExit();
+    Writer w = new OutputStreamWriter(new FileOutputStream(f), "utf-8");
+    try {
+      w.write(toIndexXML(from, count, paragraphs));
+    } finally {
+      w.close();
+    }
+    return f;
+  }
+
+  /**
+   * Returns the Lucene document that the Index XML for the specified content would produce.
+   *
+   * @param id         The ID of the content.
+   * @param paragraphs The number of paragraphs in the content.
+   * @return the corresponding Lucene document.
+   */
+  public static Document toDocument(int id, int paragraphs) {
+    Document doc = new Document();
+    doc.add(new Field("docid", Integer.toString(id), Field.Store.YES, Field.Index.NOT_ANALYZED));
+    doc.add(new Field("type", "xml", Field.Store.YES, Field.Index.ANALYZED));
+    doc.add(new Field("sort", Integer.toString(id), Field.Store.YES, Field.Index.ANALYZED));
+    doc.add(new Field("title", "document " + id, Field.Store.YES, Field.Index.ANALYZED));
+    doc.add(new Field("author", "author" + id, Field.Store.YES, Field.Index.ANALYZED));
+    doc.add(new Field("data", "data" + id, Field.Store.YES, Field.Index.ANALYZED));
+    doc.add(new Field("content", toContent(id, paragraphs), Field.Store.YES, Field.Index.ANALYZED_NO_NORMS));
+    return doc;
+  }
+
+  /**
+   * Replaces the document with the specified ID as an indexing job would.
+   *
+   * @param io         The index I/O to update.
+   * @param id         The ID of the content.
+   * @param paragraphs The number of paragraphs in the content.
+   *
+   * @throws Exception If the document could not be updated.
+   */
+  public static void update(IndexIO io, int id, int paragraphs) throws Exception {
+    Document doc = toDocument(id, paragraphs);
+    io.updateDocuments(new DeleteRule("docid", Integer.toString(id)), Collections.singletonList(doc));
+  }
+
+  /**
+   * Returns an index using the specified directory and the analyzer of the tests.
+   *
+   * @param dir The directory of the index.
+   * @param id  The ID of the index.
+   * @return the corresponding index.
+   */
+  public static Index toIndex(final Directory dir, final String id) {
+    return new Index() {
+      public Analyzer getAnalyzer() {return new StandardAnalyzer(Version.LUCENE_30);}
+      public Directory getIndexDirectory() {return dir;}
+      public String getIndexID() {return id;}
+    };
+  }
+
+  // private helpers
+  // ----------------------------------------------------------------------------------------------
+
+  /**
+   * Returns the text of a paragraph, the first two match the paragraphs of the test content.
+   *
+   * <p>Only the second paragraph contains a <code>search</code> token, so that a query on
+   * <code>search[id]</code> matches a single document.
+   */
+  private static String toParagraph(int id, int i) {
+    if (i == 0) return "This is document " + id;
+    if (i == 1) return "it contains some text for doc" + id + " and search" + id;
+    return "paragraph " + i + " of document " + id + " with some more filler" + (i % 10) + " text";
+  }
+
+  /**
+   * Returns the value of the content field, as computed by the stylesheet.
+   */
+  private static String toContent(int id, int paragraphs) {
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < paragraphs; i++) {
+      content.append(toParagraph(id, i)).append(' ');
+    }
+    return content.toString();
+  }
+
+  /**
+   * Appends a stored field element to the Index XML.
+   */
+  private static void field(StringBuilder xml, String index, String name, String value) {
+    xml.append("<field store=\"yes\" index=\"").append(index).append("\" name=\"").append(name).append("\">");
+    xml.append(value);
+    xml.append("</field>\n");
+  }
+
+}
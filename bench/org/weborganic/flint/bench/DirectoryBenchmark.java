@@ -0,0 +1,178 @@
+package org.weborganic.flint.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.store.SimpleFSDirectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.weborganic.flint.IndexIOReadWrite;
+
+/**
+ * Compares searches through {@link IndexIOReadWrite} on the same file system index opened with
+ * different Lucene directory implementations.
+ *
+ * <p>The index is written once to a temporary directory, then opened as:
+ * <ul>
+ *   <li><code>simple</code>: {@link SimpleFSDirectory}</li>
+ *   <li><code>nio</code>: {@link NIOFSDirectory}</li>
+ *   <li><code>mmap</code>: {@link MMapDirectory} with unmapping on close when supported</li>
+ *   <li><code>mmap-chunked</code>: {@link MMapDirectory} mapping files in chunks of 16MB</li>
+ *   <li><code>ram</code>: {@link RAMDirectory} copied from the file system index</li>
+ * </ul>
+ *
+ * <p>Two searches are measured on each directory:
+ * <ul>
+ *   <li><code>selectiveSearch</code>: <code>content:search1</code>, which matches 1 document,
+ *   so that only a short posting list is read</li>
+ *   <li><code>sortedSearch</code>: <code>type:xml</code> sorted by <code>sort</code>, which
+ *   matches every document (as many hits as <code>documents</code>) and sorts them with the field cache</li>
+ * </ul>
+ *
+ * @author agent
+ * @version 17 October 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DirectoryBenchmark {
+
+  /**
+   * The size of the chunks for the chunked memory-mapped directory.
+   */
+  private static final int CHUNK_SIZE = 16 * 1024 * 1024;
+
+  /**
+   * The directory implementation to use.
+   */
+  @Param({"simple", "nio", "mmap", "mmap-chunked", "ram"})
+  public String directory;
+
+  /**
+   * The number of documents in the index.
+   */
+  @Param({"10000", "100000"})
+  public int documents;
+
+  private File location;
+
+  private Directory dir;
+
+  private IndexIOReadWrite io;
+
+  @Setup
+  public void setup() throws Exception {
+    this.location = File.createTempFile("flint-bench-", "");
+    this.location.delete();
+    this.location.mkdir();
+    // Write the index once using the default directory, under its own ID
+    Directory fsdir = FSDirectory.open(this.location);
+    try {
+      IndexIOReadWrite writer = new IndexIOReadWrite(Corpus.toIndex(fsdir, "BenchmarkIndexWriter"));
+      try {
+        for (int id = 0; id < this.documents; id++) {
+          Corpus.update(writer, id, 50);
+        }
+        writer.maybeCommit();
+      } finally {
+        writer.stop();
+      }
+    } finally {
+      fsdir.close();
+    }
+    // Open it again with the directory under test
+    this.dir = open(this.directory, this.location);
+    this.io = new IndexIOReadWrite(Corpus.toIndex(this.dir, "BenchmarkIndex-" + this.directory));
+  }
+
+  @TearDown
+  public void teardown() throws Exception {
+    try {
+      this.io.stop();
+    } finally {
+      try {
+        this.dir.close();
+      } finally {
+        // Delete whatever is left, including any lock file
+        File[] files = this.location.listFiles();
+        if (files != null) {
+          for (File f : files) f.delete();
+        }
+        this.location.delete();
+      }
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public TopDocs selectiveSearch() throws Exception {
+    IndexSearcher searcher = this.io.bookSearcher();
+    try {
+      return searcher.search(new TermQuery(new Term("content", "search1")), 10);
+    } finally {
+      this.io.releaseSearcher(searcher);
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public TopDocs sortedSearch() throws Exception {
+    IndexSearcher searcher = this.io.bookSearcher();
+    try {
+      Sort sort = new Sort(new SortField("sort", SortField.STRING));
+      return searcher.search(new TermQuery(new Term("type", "xml")), null, 10, sort);
+    } finally {
+      this.io.releaseSearcher(searcher);
+    }
+  }
+
+  /**
+   * Opens the file system index using the specified type of directory.
+   */
+  private static Directory open(String type, File location) throws IOException {
+    if ("simple".equals(type)) return new SimpleFSDirectory(location);
+    if ("nio".equals(type)) return new NIOFSDirectory(location);
+    if ("mmap".equals(type) || "mmap-chunked".equals(type)) {
+      MMapDirectory mmap = new MMapDirectory(location);
+      mmap.setUseUnmap(MMapDirectory.UNMAP_SUPPORTED);
+      if ("mmap-chunked".equals(type)) mmap.setMaxChunkSize(CHUNK_SIZE);
+      return mmap;
+    }
+    if ("ram".equals(type)) {
+      Directory fsdir = FSDirectory.open(location);
+      try {
+        return new RAMDirectory(fsdir);
+      } finally {
+        fsdir.close();
+      }
+    }
+    throw new IllegalArgumentException("Unknown directory type: " + type);
+  }
+
+}
@@ -0,0 +1,105 @@
+package org.weborganic.flint.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.store.RAMDirectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.weborganic.flint.IndexIOReadWrite;
+import org.weborganic.flint.content.DeleteRule;
+
+/**
+ * Measures document updates and commits on an {@link IndexIOReadWrite} over a memory index.
+ *
+ * <p>The index is pre-filled with the specified number of documents, updates replace existing
+ * documents using a {@link DeleteRule} on <code>docid</code> as the indexing jobs do, so the size
+ * of the index remains stable during the benchmark.
+ *
+ * <p>Each benchmark updates a number of documents and then calls <code>maybeCommit()</code>; the
+ * heuristic of the index I/O decides whether a commit actually takes place. Times are reported
+ * per document updated, so that <code>updateDocument</code> (one document per call) and
+ * <code>updateBatch</code> ({@value #BATCH} documents per call) can be compared directly.
+ *
+ * <p>The largest index keeps several hundred megabytes of stored content in memory, so the heap
+ * size of the forked JVM is fixed.
+ *
+ * @author agent
+ * @version 17 October 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class IndexIOBenchmark {
+
+  /**
+   * The number of documents updated before calling <code>maybeCommit()</code> in a batch.
+   */
+  private static final int BATCH = 100;
+
+  /**
+   * The number of documents in the index.
+   */
+  @Param({"1000", "100000"})
+  public int documents;
+
+  /**
+   * The number of paragraphs in each document.
+   */
+  @Param({"2", "50"})
+  public int paragraphs;
+
+  private IndexIOReadWrite io;
+
+  private int next = 0;
+
+  @Setup
+  public void setup() throws Exception {
+    this.io = new IndexIOReadWrite(Corpus.toIndex(new RAMDirectory(), "BenchmarkRAMIndex"));
+    for (int id = 0; id < this.documents; id++) {
+      Corpus.update(this.io, id, this.paragraphs);
+    }
+    this.io.maybeCommit();
+  }
+
+  @TearDown
+  public void teardown() throws Exception {
+    this.io.stop();
+  }
+
+  @Benchmark
+  public void updateDocument() throws Exception {
+    update(1);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void updateBatch() throws Exception {
+    update(BATCH);
+  }
+
+  /**
+   * Updates the specified number of documents, then lets the index I/O decide whether to commit.
+   */
+  private void update(int count) throws Exception {
+    for (int i = 0; i < count; i++) {
+      Corpus.update(this.io, this.next, this.paragraphs);
+      this.next = (this.next + 1) % this.documents;
+    }
+    this.io.maybeCommit();
+  }
+
+}
@@ -0,0 +1,63 @@
+package org.weborganic.flint.bench;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.document.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.weborganic.flint.index.IndexParser;
+import org.weborganic.flint.index.IndexParserFactory;
+
+/**
+ * Measures the time taken by the {@link IndexParser} to turn Index XML into Lucene documents.
+ *
+ * @author agent
+ * @version 17 October 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class IndexParserBenchmark {
+
+  /**
+   * The number of documents in the Index XML.
+   */
+  @Param({"1", "100", "10000"})
+  public int documents;
+
+  /**
+   * The number of paragraphs in each document.
+   */
+  @Param({"2", "50"})
+  public int paragraphs;
+
+  private IndexParser parser;
+
+  private File file;
+
+  @Setup
+  public void setup() throws Exception {
+    this.parser = IndexParserFactory.getInstance();
+    this.file = Corpus.toIndexFile(1, this.documents, this.paragraphs);
+  }
+
+  @Benchmark
+  public List<Document> process() throws Exception {
+    return this.parser.process(this.file);
+  }
+
+}
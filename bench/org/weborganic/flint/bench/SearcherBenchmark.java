@@ -0,0 +1,116 @@
+package org.weborganic.flint.bench;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.RAMDirectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.weborganic.flint.IndexIOReadWrite;
+
+/**
+ * Measures the churn of booking and releasing searchers on an {@link IndexIOReadWrite}.
+ *
+ * <p>Searchers are booked concurrently by several threads to reflect the query load on a server.
+ *
+ * <p>The <code>bookAndRelease</code> and <code>bookSearchAndRelease</code> benchmarks measure a
+ * static index, where all threads share the same searcher. The <code>churn</code> group adds a
+ * thread updating a document and calling <code>maybeCommit()</code> while three threads search,
+ * so that new searchers are published and stale ones released while they are still booked.
+ *
+ * @author agent
+ * @version 17 October 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SearcherBenchmark {
+
+  /**
+   * The number of documents in the index.
+   */
+  @Param({"1000", "100000"})
+  public int documents;
+
+  private IndexIOReadWrite io;
+
+  private final AtomicInteger next = new AtomicInteger();
+
+  @Setup
+  public void setup() throws Exception {
+    this.io = new IndexIOReadWrite(Corpus.toIndex(new RAMDirectory(), "BenchmarkRAMIndex"));
+    for (int id = 0; id < this.documents; id++) {
+      Corpus.update(this.io, id, 2);
+    }
+    this.io.maybeCommit();
+  }
+
+  @TearDown
+  public void teardown() throws Exception {
+    this.io.stop();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public int bookAndRelease() throws Exception {
+    IndexSearcher searcher = this.io.bookSearcher();
+    try {
+      return searcher.maxDoc();
+    } finally {
+      this.io.releaseSearcher(searcher);
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public TopDocs bookSearchAndRelease() throws Exception {
+    IndexSearcher searcher = this.io.bookSearcher();
+    try {
+      return searcher.search(new TermQuery(new Term("content", "search1")), 10);
+    } finally {
+      this.io.releaseSearcher(searcher);
+    }
+  }
+
+  @Benchmark
+  @Group("churn")
+  @GroupThreads(1)
+  public void churnUpdate() throws Exception {
+    int id = this.next.getAndIncrement() % this.documents;
+    Corpus.update(this.io, id, 2);
+    this.io.maybeCommit();
+  }
+
+  @Benchmark
+  @Group("churn")
+  @GroupThreads(3)
+  public TopDocs churnSearch() throws Exception {
+    IndexSearcher searcher = this.io.bookSearcher();
+    try {
+      return searcher.search(new TermQuery(new Term("content", "search1")), 10);
+    } finally {
+      this.io.releaseSearcher(searcher);
+    }
+  }
+
+}
@@ -0,0 +1,108 @@
+package org.weborganic.flint.bench;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.transform.Templates;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.weborganic.flint.IndexConfig;
+import org.weborganic.flint.content.ContentType;
+
+/**
+ * Measures the XSLT transformation of source content into Index XML.
+ *
+ * <p>The stylesheet is registered with an {@link IndexConfig} as in <code>IndexManagerTest</code>
+ * and transformed with the templates returned by the configuration, so that the figures reflect
+ * the templates used by the indexing jobs. Compares looking up the templates for every job with
+ * reusing the templates returned once, and registering the stylesheet again for every job.
+ *
+ * @author agent
+ * @version 17 October 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TransformBenchmark {
+
+  /**
+   * The media type of the source content.
+   */
+  private static final String MEDIA_TYPE = "text/xml";
+
+  /**
+   * The ID of the configuration.
+   */
+  private static final String CONFIG = "benchconfig";
+
+  /**
+   * The content type of the source content.
+   */
+  private static final ContentType DOCUMENT_TYPE = new ContentType() {};
+
+  /**
+   * The number of paragraphs in the source document.
+   */
+  @Param({"2", "50", "1000"})
+  public int paragraphs;
+
+  private IndexConfig config;
+
+  private Templates templates;
+
+  private String source;
+
+  @Setup
+  public void setup() throws Exception {
+    this.config = new IndexConfig();
+    this.config.setTemplates(DOCUMENT_TYPE, MEDIA_TYPE, CONFIG, Corpus.XSLT.toURI());
+    this.templates = this.config.getTemplates(DOCUMENT_TYPE, MEDIA_TYPE, CONFIG);
+    this.source = Corpus.toSource(1, this.paragraphs);
+  }
+
+  @Benchmark
+  public String transform() throws Exception {
+    return transform(this.templates.newTransformer());
+  }
+
+  @Benchmark
+  public String lookupAndTransform() throws Exception {
+    Templates t = this.config.getTemplates(DOCUMENT_TYPE, MEDIA_TYPE, CONFIG);
+    return transform(t.newTransformer());
+  }
+
+  @Benchmark
+  public String registerAndTransform() throws Exception {
+    IndexConfig c = new IndexConfig();
+    c.setTemplates(DOCUMENT_TYPE, MEDIA_TYPE, CONFIG, Corpus.XSLT.toURI());
+    return transform(c.getTemplates(DOCUMENT_TYPE, MEDIA_TYPE, CONFIG).newTransformer());
+  }
+
+  /**
+   * Transforms the source document with the specified transformer.
+   */
+  private String transform(Transformer transformer) throws Exception {
+    transformer.setParameter("type", "xml");
+    StringWriter out = new StringWriter();
+    transformer.transform(new StreamSource(new StringReader(this.source)), new StreamResult(out));
+    return out.toString();
+  }
+
+}
@@ -0,0 +1,58 @@
+package org.weborganic.flint.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryParser.MultiFieldQueryParser;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.weborganic.flint.util.Fields;
+import org.weborganic.flint.util.Queries;
+
+/**
+ * Measures the utility methods used when building queries.
+ *
+ * @author agent
+ * @version 17 October 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class UtilBenchmark {
+
+  private Query query;
+
+  @Setup
+  public void setup() throws Exception {
+    String[] fields = new String[]{"title", "body"};
+    MultiFieldQueryParser parser = new MultiFieldQueryParser(Version.LUCENE_30, fields, new StandardAnalyzer(Version.LUCENE_30));
+    this.query = parser.parse("Come to \"New York\" with pen*");
+  }
+
+  @Benchmark
+  public Query substitute() {
+    Query s = Queries.substitute(this.query, new Term("title", "come"), new Term("title", "came"));
+    return Queries.substitute(s, new Term("body", "york"), new Term("body", "orleans"));
+  }
+
+  @Benchmark
+  public List<String> toValues() {
+    return Fields.toValues("   The \"Big bang\" theory   of  everything \"at once");
+  }
+
+}